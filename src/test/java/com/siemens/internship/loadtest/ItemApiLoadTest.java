@@ -0,0 +1,76 @@
+package com.siemens.internship.loadtest;
+
+import com.siemens.internship.Item;
+import com.siemens.internship.ItemRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HTTP load test of the /api/items endpoints.
+ * Starts the application on a random port with its own in-memory database,
+ * seeds a fixed dataset, drives the configured operation mix at a fixed
+ * arrival rate and fails when a latency or throughput SLO is missed.
+ * Excluded from the regular build, run it with: mvn test -Ploadtest
+ * See LoadTestSettings for the available -Dloadtest.* options.
+ */
+
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:loadtest")
+class ItemApiLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    /**
+     * Runs warmup and measurement, then reports and checks the SLOs.
+     */
+
+    @Test
+    void itemEndpoints_underOpenLoad_shouldMeetSlos() throws Exception {
+        // Arrange
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        itemRepository.deleteAll();
+        Random random = new Random(settings.seed());
+        List<Long> seededIds = seed(settings.seedItems(), random);
+        ItemRequestFactory requests = new ItemRequestFactory(
+                URI.create("http://localhost:" + port), settings.requestTimeout(),
+                settings.mix(), seededIds);
+        OpenLoadGenerator generator = new OpenLoadGenerator(requests, settings);
+
+        // Act: the warmup lets the JIT and connection pools settle, it is not recorded
+        LoadResult result = generator.run(settings.warmup(), settings.duration());
+
+        // Assert
+        result.printSummary(System.out);
+        System.out.printf("rows: %d seeded, %d after the run, at most %d%n",
+                seededIds.size(), itemRepository.count(), settings.maxRows());
+        result.writeReport(settings.reportDirectory());
+        List<String> violations = result.sloViolations(settings);
+        assertTrue(violations.isEmpty(), "SLOs missed: " + String.join("; ", violations));
+    }
+
+    // Saves count items built from the seeded random and returns their IDs
+    private List<Long> seed(int count, Random random) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(null, "Seed item " + random.nextInt(1_000_000),
+                    "Seeded for the load test", random.nextBoolean() ? "NEW" : "IN_STOCK",
+                    "seed" + i + "@test.com"));
+        }
+        return itemRepository.saveAll(items).stream().map(Item::getId).toList();
+    }
+}
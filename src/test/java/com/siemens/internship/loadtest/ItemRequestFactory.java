@@ -0,0 +1,170 @@
+package com.siemens.internship.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.Item;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Turns the configured operation mix into concrete HTTP requests against
+ * /api/items. Reads and updates target the seeded items, deletes remove
+ * items created earlier in the same run, oldest first. At most
+ * MAX_CREATED_ITEMS created items are kept: a DELETE with nothing to delete
+ * is sent as CREATE and a CREATE over the limit as DELETE, so the table
+ * never grows past the seed plus that limit however long or fast the run.
+ * Both choices are made at scheduling time, so the request sequence depends
+ * only on the random seed and never on how fast the server answers.
+ * Not thread-safe, it is only used by the dispatching thread.
+ */
+
+public class ItemRequestFactory {
+
+    public static final int MAX_CREATED_ITEMS = 20;
+
+    // Thread-safe once configured, also used from the HTTP client threads
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final List<Long> seededIds;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    // IDs of created items not deleted yet, completed by their CREATE response
+    private final Deque<CompletableFuture<Long>> createdIds = new ArrayDeque<>();
+    private long sequence;
+
+    public ItemRequestFactory(URI baseUri, Duration requestTimeout,
+                              Map<Operation, Integer> mix, List<Long> seededIds) {
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.seededIds = List.copyOf(seededIds);
+        // Enum order, so the picks for a seed don't depend on the map implementation
+        this.operations = Operation.values();
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.getOrDefault(operations[i], 0);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Picks the next operation according to the mix and builds its request.
+     */
+
+    public ScheduledRequest next(Random random) {
+        Operation operation = nextOperation(random);
+        if (operation == Operation.DELETE && createdIds.isEmpty()) {
+            operation = Operation.CREATE;
+        } else if (operation == Operation.CREATE && createdIds.size() >= MAX_CREATED_ITEMS) {
+            operation = Operation.DELETE;
+        }
+        return switch (operation) {
+            case CREATE -> {
+                CompletableFuture<Long> createdId = new CompletableFuture<>();
+                createdIds.add(createdId);
+                yield new ScheduledRequest(operation, CompletableFuture.completedFuture(
+                        request("").POST(jsonBody(newItem(null, random))).build()), createdId);
+            }
+            // Usually already answered, otherwise the DELETE waits for its CREATE
+            case DELETE -> new ScheduledRequest(operation, createdIds.poll()
+                    .thenApply(id -> request("/" + id).DELETE().build()), null);
+            default -> new ScheduledRequest(operation,
+                    CompletableFuture.completedFuture(build(operation, random)), null);
+        };
+    }
+
+    private Operation nextOperation(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weight out of range: " + pick);
+    }
+
+    private HttpRequest build(Operation operation, Random random) {
+        return switch (operation) {
+            case LIST -> request("").GET().build();
+            case GET -> request("/" + randomSeededId(random)).GET().build();
+            case UPDATE -> {
+                Long id = randomSeededId(random);
+                yield request("/" + id)
+                        .PUT(jsonBody(newItem(id, random)))
+                        .build();
+            }
+            case PROCESS -> request("/process").GET().build();
+            case CREATE, DELETE -> throw new IllegalArgumentException("Built by next: " + operation);
+        };
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve("/api/items" + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private Long randomSeededId(Random random) {
+        return seededIds.get(random.nextInt(seededIds.size()));
+    }
+
+    private Item newItem(Long id, Random random) {
+        long n = sequence++;
+        return new Item(id, "Load item " + n, "Generated by the load test",
+                random.nextBoolean() ? "NEW" : "IN_STOCK", "load" + n + "@test.com");
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Item item) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(item));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize item", e);
+        }
+    }
+
+    /**
+     * A request together with the operation it exercises. For CREATE,
+     * createdId is completed from the response and feeds a later DELETE.
+     */
+
+    public record ScheduledRequest(Operation operation, CompletableFuture<HttpRequest> request,
+                                   CompletableFuture<Long> createdId) {
+
+        /**
+         * Hands the response body to a waiting DELETE, thread-safe.
+         *
+         * @param body the response body, null when the request failed
+         */
+
+        public void completed(String body) {
+            if (createdId == null) {
+                return;
+            }
+            if (body == null) {
+                createdId.completeExceptionally(new IllegalStateException("CREATE failed, nothing to delete"));
+                return;
+            }
+            try {
+                JsonNode id = OBJECT_MAPPER.readTree(body).get("id");
+                if (id == null || !id.canConvertToLong()) {
+                    throw new IllegalStateException("CREATE response has no id: " + body);
+                }
+                createdId.complete(id.asLong());
+            } catch (JsonProcessingException | IllegalStateException e) {
+                createdId.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.siemens.internship.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one load phase, kept per operation.
+ * Latencies are recorded in microseconds into HdrHistograms, measured from
+ * the intended start of each request so queueing is never hidden.
+ * Throughput only counts responses that arrive inside the scheduling window,
+ * slow responses after it are left to the latency objectives.
+ */
+
+public class LoadResult {
+
+    // Anything slower than a minute is clamped, requests time out well before
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final double targetRatePerSecond;
+    private final Duration window;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> failureCauses = new ConcurrentHashMap<>();
+    private final LongAdder successesInWindow = new LongAdder();
+
+    public LoadResult(double targetRatePerSecond, Duration window) {
+        this.targetRatePerSecond = targetRatePerSecond;
+        this.window = window;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public void sent(Operation operation) {
+        stats.get(operation).sent.incrementAndGet();
+    }
+
+    /**
+     * Records one completed request, thread-safe.
+     *
+     * @param failureCause null on success, otherwise the status code or
+     *                     exception the request failed with
+     * @param inWindow     whether the response arrived before the window closed
+     */
+
+    public void record(Operation operation, long latencyNanos, String failureCause, boolean inWindow) {
+        OperationStats operationStats = stats.get(operation);
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        operationStats.latencies.recordValue(Math.max(micros, 1));
+        if (failureCause != null) {
+            operationStats.failures.incrementAndGet();
+            failureCauses.computeIfAbsent(operation + " " + failureCause, key -> new LongAdder())
+                    .increment();
+        } else if (inWindow) {
+            successesInWindow.increment();
+        }
+    }
+
+    public long totalSent() {
+        return stats.values().stream().mapToLong(s -> s.sent.get()).sum();
+    }
+
+    public long totalFailures() {
+        return stats.values().stream().mapToLong(s -> s.failures.get()).sum();
+    }
+
+    /**
+     * Successful responses per second received inside the scheduling window.
+     */
+
+    public double achievedThroughput() {
+        double seconds = window.toNanos() / 1e9;
+        return seconds > 0 ? successesInWindow.sum() / seconds : 0;
+    }
+
+    /**
+     * Compares the run against the configured SLOs.
+     *
+     * @return one message per missed objective, empty when all are met
+     */
+
+    public List<String> sloViolations(LoadTestSettings settings) {
+        List<String> violations = new ArrayList<>();
+        stats.forEach((operation, operationStats) -> {
+            Histogram latencies = operationStats.latencies;
+            if (latencies.getTotalCount() == 0) {
+                return;
+            }
+            double p99 = latencies.getValueAtPercentile(99.0) / MICROS_PER_MILLI;
+            long limit = settings.p99SloMillis().get(operation);
+            if (p99 > limit) {
+                violations.add(String.format("%s p99 %.1f ms exceeds %d ms", operation, p99, limit));
+            }
+        });
+        double minThroughput = targetRatePerSecond * settings.minThroughputRatio();
+        if (achievedThroughput() < minThroughput) {
+            violations.add(String.format("throughput %.1f req/s below %.1f req/s",
+                    achievedThroughput(), minThroughput));
+        }
+        double errorRatio = totalSent() == 0 ? 0 : (double) totalFailures() / totalSent();
+        if (errorRatio > settings.maxErrorRatio()) {
+            violations.add(String.format("error ratio %.4f exceeds %.4f",
+                    errorRatio, settings.maxErrorRatio()));
+        }
+        return violations;
+    }
+
+    /**
+     * Prints the per-operation summary table.
+     */
+
+    public void printSummary(PrintStream out) {
+        out.printf("%-8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "op", "sent", "failed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        stats.forEach((operation, operationStats) -> {
+            Histogram latencies = operationStats.latencies;
+            out.printf("%-8s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    operation, operationStats.sent.get(), operationStats.failures.get(),
+                    latencies.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                    latencies.getValueAtPercentile(90.0) / MICROS_PER_MILLI,
+                    latencies.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                    latencies.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                    latencies.getMaxValue() / MICROS_PER_MILLI);
+        });
+        out.printf("target %.1f req/s, achieved %.1f req/s over %.1f s%n",
+                targetRatePerSecond, achievedThroughput(), window.toMillis() / 1000.0);
+        // Sorted so the causes of a failed error-ratio objective are easy to read
+        new TreeMap<>(failureCauses).forEach((cause, count) ->
+                out.printf("failed %s x%d%n", cause, count.sum()));
+    }
+
+    /**
+     * Writes the summary and one percentile distribution (.hgrm, in ms) per
+     * operation, the .hgrm files can be plotted with HdrHistogram's tools.
+     */
+
+    public void writeReport(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            printSummary(out);
+        }
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            Histogram latencies = entry.getValue().latencies;
+            if (latencies.getTotalCount() == 0) {
+                continue;
+            }
+            Path file = directory.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                latencies.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    // Counters of a single operation, updated from the HTTP client threads
+    private static class OperationStats {
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+    }
+}
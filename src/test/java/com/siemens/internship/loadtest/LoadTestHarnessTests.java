@@ -0,0 +1,401 @@
+package com.siemens.internship.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the load test harness logic: mix parsing, settings
+ * validation, weighted operation selection and SLO evaluation.
+ * Runs in the regular build, unlike ItemApiLoadTest itself.
+ */
+
+class LoadTestHarnessTests {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /**
+     * Tests that a mix string is parsed into per-operation weights.
+     */
+
+    @Test
+    void parseMix_withValidEntries_shouldReturnWeights() {
+        // Act
+        Map<Operation, Integer> mix = LoadTestSettings.parseMix("GET=3, create = 1,DELETE=0");
+
+        // Assert
+        assertEquals(Map.of(Operation.GET, 3, Operation.CREATE, 1, Operation.DELETE, 0), mix);
+    }
+
+    /**
+     * Tests that malformed mix entries are rejected.
+     */
+
+    @Test
+    void parseMix_withInvalidEntries_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("GET"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("GET=1=2"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("GET=many"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("FETCH=1"));
+    }
+
+    /**
+     * Tests that negative weights are rejected.
+     */
+
+    @Test
+    void parseMix_withNegativeWeight_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadTestSettings.parseMix("GET=2,CREATE=-1"));
+    }
+
+    /**
+     * Tests that lower-case operation names parse under a Turkish locale,
+     * where "i".toUpperCase() is a dotted capital I.
+     */
+
+    @Test
+    void parseMix_underTurkishLocale_shouldReturnWeights() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // Act
+            Map<Operation, Integer> mix = LoadTestSettings.parseMix("list=1,process=2");
+
+            // Assert
+            assertEquals(Map.of(Operation.LIST, 1, Operation.PROCESS, 2), mix);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    /**
+     * Tests that a mix without any positive weight is rejected.
+     */
+
+    @Test
+    void settings_withZeroTotalWeight_shouldThrow() {
+        Map<Operation, Integer> mix = LoadTestSettings.parseMix("GET=0,CREATE=0");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> settings(mix, 10, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+    }
+
+    /**
+     * Tests that GET and UPDATE require seeded items, other operations do not.
+     */
+
+    @Test
+    void settings_withoutSeedItems_shouldOnlyAllowMixWithoutGetAndUpdate() {
+        Duration second = Duration.ofSeconds(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> settings(Map.of(Operation.GET, 1), 0, second, second));
+        assertThrows(IllegalArgumentException.class,
+                () -> settings(Map.of(Operation.UPDATE, 1), 0, second, second));
+        assertThrows(IllegalArgumentException.class,
+                () -> settings(Map.of(Operation.CREATE, 1), -1, second, second));
+        assertDoesNotThrow(() -> settings(Map.of(Operation.CREATE, 1), 0, second, second));
+    }
+
+    /**
+     * Tests that non-positive warmup and duration are rejected.
+     */
+
+    @Test
+    void settings_withNonPositiveDurations_shouldThrow() {
+        Map<Operation, Integer> mix = Map.of(Operation.GET, 1);
+        Duration second = Duration.ofSeconds(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> settings(mix, 1, Duration.ZERO, second));
+        assertThrows(IllegalArgumentException.class,
+                () -> settings(mix, 1, Duration.ofSeconds(-1), second));
+        assertThrows(IllegalArgumentException.class,
+                () -> settings(mix, 1, second, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> settings(mix, 1, second, Duration.ofSeconds(-1)));
+    }
+
+    /**
+     * Tests that SLO ratios outside 0..1 are rejected.
+     */
+
+    @Test
+    void settings_withRatiosOutOfRange_shouldThrow() {
+        Map<Operation, Integer> mix = Map.of(Operation.GET, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> settings(mix, -0.1, 0.05));
+        assertThrows(IllegalArgumentException.class, () -> settings(mix, 1.1, 0.05));
+        assertThrows(IllegalArgumentException.class, () -> settings(mix, 0.9, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> settings(mix, 0.9, 1.1));
+        assertDoesNotThrow(() -> settings(mix, 1.0, 0.0));
+    }
+
+    /**
+     * Tests that the table bound and the PROCESS pool share follow from the
+     * seeded items and the mix, not from the run length.
+     */
+
+    @Test
+    void processUtilization_shouldDependOnRowsAndRateOnly() {
+        // Arrange: 10 req/s, 1 in 100 PROCESS, 30 + 20 rows = 500ms per call
+        Map<Operation, Integer> mix = Map.of(Operation.GET, 99, Operation.PROCESS, 1);
+        LoadTestSettings shortRun = processSettings(mix, 30, Duration.ofSeconds(10));
+        LoadTestSettings longRun = processSettings(mix, 30, Duration.ofSeconds(600));
+
+        // Act & Assert
+        assertEquals(50, shortRun.maxRows());
+        assertEquals(0.05, shortRun.processUtilization(), 1e-9);
+        assertEquals(shortRun.processUtilization(), longRun.processUtilization(), 1e-9);
+    }
+
+    /**
+     * Tests that a dataset PROCESS cannot handle within its SLO, or a PROCESS
+     * share that saturates ItemService's pool, is rejected up front.
+     */
+
+    @Test
+    void settings_withProcessOverload_shouldThrow() {
+        Duration second = Duration.ofSeconds(1);
+
+        // 280 + 20 rows take 3s per call, at the 3s objective
+        assertDoesNotThrow(() -> processSettings(Map.of(Operation.GET, 999, Operation.PROCESS, 1), 280, second));
+        assertThrows(IllegalArgumentException.class,
+                () -> processSettings(Map.of(Operation.GET, 999, Operation.PROCESS, 1), 281, second));
+        // 10 req/s, 1 in 10 PROCESS, 600ms per call keeps the pool 60% busy
+        assertThrows(IllegalArgumentException.class,
+                () -> processSettings(Map.of(Operation.GET, 9, Operation.PROCESS, 1), 40, second));
+        assertDoesNotThrow(() -> processSettings(Map.of(Operation.GET, 9, Operation.PROCESS, 1), 30, second));
+    }
+
+    /**
+     * Tests that the same seed yields the same sequence and that operations
+     * are picked according to their weights.
+     */
+
+    @Test
+    void next_withFixedSeed_shouldFollowWeightsReproducibly() {
+        // Arrange
+        Map<Operation, Integer> mix = Map.of(Operation.GET, 3, Operation.LIST, 1, Operation.UPDATE, 0);
+        List<Operation> first = operations(mix, new Random(42), 4000);
+
+        // Act
+        List<Operation> second = operations(mix, new Random(42), 4000);
+
+        // Assert
+        assertEquals(first, second);
+        assertFalse(first.contains(Operation.UPDATE));
+        long gets = first.stream().filter(operation -> operation == Operation.GET).count();
+        assertEquals(0.75, gets / 4000.0, 0.03);
+    }
+
+    /**
+     * Tests that a DELETE with nothing created yet is sent as CREATE.
+     */
+
+    @Test
+    void next_withoutCreatedItems_shouldCreateInsteadOfDelete() {
+        // Act
+        List<Operation> operations = operations(Map.of(Operation.DELETE, 1), new Random(42), 4);
+
+        // Assert
+        assertEquals(List.of(Operation.CREATE, Operation.DELETE, Operation.CREATE, Operation.DELETE),
+                operations);
+    }
+
+    /**
+     * Tests that created items never pile up beyond MAX_CREATED_ITEMS.
+     */
+
+    @Test
+    void next_withOnlyCreates_shouldCapCreatedItems() {
+        // Act
+        List<Operation> operations = operations(Map.of(Operation.CREATE, 1), new Random(42), 100);
+
+        // Assert
+        int outstanding = 0;
+        for (Operation operation : operations) {
+            outstanding += operation == Operation.CREATE ? 1 : -1;
+            assertTrue(outstanding >= 0 && outstanding <= ItemRequestFactory.MAX_CREATED_ITEMS);
+        }
+        assertEquals(ItemRequestFactory.MAX_CREATED_ITEMS, outstanding);
+    }
+
+    /**
+     * Tests that a DELETE targets the ID returned by an earlier CREATE and
+     * fails when that CREATE failed.
+     */
+
+    @Test
+    void next_delete_shouldTargetCreatedItem() {
+        // Arrange
+        ItemRequestFactory requests = factory(Map.of(Operation.DELETE, 1));
+        Random random = new Random(42);
+        ItemRequestFactory.ScheduledRequest created = requests.next(random);
+        ItemRequestFactory.ScheduledRequest deleted = requests.next(random);
+        ItemRequestFactory.ScheduledRequest failedCreate = requests.next(random);
+        ItemRequestFactory.ScheduledRequest orphanDelete = requests.next(random);
+
+        // Act
+        created.completed("{\"id\":7,\"name\":\"Load item 0\"}");
+        failedCreate.completed(null);
+
+        // Assert
+        assertEquals(Operation.DELETE, deleted.operation());
+        assertEquals("DELETE", deleted.request().join().method());
+        assertEquals(URI.create("http://localhost:8080/api/items/7"), deleted.request().join().uri());
+        assertTrue(orphanDelete.request().isCompletedExceptionally());
+    }
+
+    /**
+     * Tests that no violations are reported when every objective is met.
+     */
+
+    @Test
+    void sloViolations_whenObjectivesMet_shouldBeEmpty() {
+        // Arrange
+        LoadTestSettings settings = sloSettings();
+        LoadResult result = new LoadResult(10, Duration.ofSeconds(1));
+        recordSuccesses(result, 10, 5, true);
+
+        // Act & Assert
+        assertEquals(List.of(), result.sloViolations(settings));
+    }
+
+    /**
+     * Tests that a p99 above the operation's objective is reported.
+     */
+
+    @Test
+    void sloViolations_withSlowOperation_shouldReportP99() {
+        // Arrange
+        LoadTestSettings settings = sloSettings();
+        LoadResult result = new LoadResult(10, Duration.ofSeconds(1));
+        recordSuccesses(result, 10, 500, true);
+
+        // Act
+        List<String> violations = result.sloViolations(settings);
+
+        // Assert
+        assertEquals(1, violations.size());
+        assertTrue(violations.get(0).startsWith("GET p99"));
+    }
+
+    /**
+     * Tests that responses arriving after the window don't count towards
+     * throughput.
+     */
+
+    @Test
+    void sloViolations_withLateResponses_shouldReportThroughput() {
+        // Arrange: 10 req/s target, 0.9 ratio, only 8 answered in the window
+        LoadTestSettings settings = sloSettings();
+        LoadResult result = new LoadResult(10, Duration.ofSeconds(1));
+        recordSuccesses(result, 8, 5, true);
+        recordSuccesses(result, 2, 5, false);
+
+        // Act
+        List<String> violations = result.sloViolations(settings);
+
+        // Assert
+        assertEquals(8.0, result.achievedThroughput(), 1e-9);
+        assertEquals(1, violations.size());
+        assertTrue(violations.get(0).startsWith("throughput"));
+    }
+
+    /**
+     * Tests that failures are reported as error ratio and listed by cause.
+     */
+
+    @Test
+    void sloViolations_withFailures_shouldReportErrorRatioAndCause() {
+        // Arrange
+        LoadTestSettings settings = sloSettings();
+        LoadResult result = new LoadResult(10, Duration.ofSeconds(1));
+        recordSuccesses(result, 10, 5, true);
+        result.sent(Operation.GET);
+        result.record(Operation.GET, 5 * NANOS_PER_MILLI, "HTTP 500", true);
+
+        // Act
+        List<String> violations = result.sloViolations(settings);
+        ByteArrayOutputStream summary = new ByteArrayOutputStream();
+        result.printSummary(new PrintStream(summary));
+
+        // Assert
+        assertEquals(1, violations.size());
+        assertTrue(violations.get(0).startsWith("error ratio"));
+        assertTrue(summary.toString().contains("failed GET HTTP 500 x1"));
+    }
+
+    private static LoadTestSettings settings(Map<Operation, Integer> mix, int seedItems,
+                                             Duration warmup, Duration duration) {
+        return settings(mix, seedItems, warmup, duration, 0.9, 0.05);
+    }
+
+    private static LoadTestSettings settings(Map<Operation, Integer> mix,
+                                             double minThroughputRatio, double maxErrorRatio) {
+        Duration second = Duration.ofSeconds(1);
+        return settings(mix, 1, second, second, minThroughputRatio, maxErrorRatio);
+    }
+
+    private static LoadTestSettings settings(Map<Operation, Integer> mix, int seedItems,
+                                             Duration warmup, Duration duration,
+                                             double minThroughputRatio, double maxErrorRatio) {
+        Map<Operation, Long> p99 = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            p99.put(operation, 100L);
+        }
+        return new LoadTestSettings(10, warmup, duration, 42, seedItems, mix, p99,
+                minThroughputRatio, maxErrorRatio, Duration.ofSeconds(5), Path.of("target/loadtest"));
+    }
+
+    // GET only, 100ms p99, 90% of the target rate, at most 5% errors
+    private static LoadTestSettings sloSettings() {
+        return settings(Map.of(Operation.GET, 1), 1, Duration.ofSeconds(1), Duration.ofSeconds(1));
+    }
+
+    private static void recordSuccesses(LoadResult result, int count, long latencyMillis, boolean inWindow) {
+        for (int i = 0; i < count; i++) {
+            result.sent(Operation.GET);
+            result.record(Operation.GET, latencyMillis * NANOS_PER_MILLI, null, inWindow);
+        }
+    }
+
+    // 10 req/s with the default 3s PROCESS objective
+    private static LoadTestSettings processSettings(Map<Operation, Integer> mix, int seedItems,
+                                                    Duration duration) {
+        Map<Operation, Long> p99 = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            p99.put(operation, operation.getDefaultP99Millis());
+        }
+        return new LoadTestSettings(10, Duration.ofSeconds(1), duration, 42, seedItems, mix, p99,
+                0.9, 0.05, Duration.ofSeconds(5), Path.of("target/loadtest"));
+    }
+
+    private static ItemRequestFactory factory(Map<Operation, Integer> mix) {
+        return new ItemRequestFactory(URI.create("http://localhost:8080"),
+                Duration.ofSeconds(5), mix, List.of(1L, 2L));
+    }
+
+    private static List<Operation> operations(Map<Operation, Integer> mix, Random random, int count) {
+        ItemRequestFactory requests = factory(mix);
+        List<Operation> operations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            operations.add(requests.next(random).operation());
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,170 @@
+package com.siemens.internship.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Configuration of a load test run, read from "loadtest.*" system properties
+ * so a run can be tuned from the command line, e.g.
+ * mvn test -Ploadtest -Dloadtest.durationSeconds=120 -Dloadtest.seed=7
+ * Every property has a default, so the same command always replays the same
+ * schedule against the same seeded dataset.
+ */
+
+public record LoadTestSettings(
+        double ratePerSecond,        // Fixed arrival rate of the open model
+        Duration warmup,             // Driven but not recorded
+        Duration duration,           // Recorded and checked against the SLOs
+        long seed,                   // Seed for the dataset and the request sequence
+        int seedItems,               // Items present before the run starts
+        Map<Operation, Integer> mix, // Relative weight of each operation
+        Map<Operation, Long> p99SloMillis,
+        double minThroughputRatio,   // Achieved / target throughput must stay above this
+        double maxErrorRatio,        // Failed / sent requests must stay below this
+        Duration requestTimeout,
+        Path reportDirectory) {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String DEFAULT_MIX =
+            "LIST=20,GET=130,CREATE=8,UPDATE=33,DELETE=8,PROCESS=1";
+    // ItemService processes every row on a fixed pool of 10 threads, 100ms each
+    private static final int PROCESS_THREADS = 10;
+    private static final long PROCESS_MILLIS_PER_ROW = 100;
+    // Above this the pool is busy enough that PROCESS calls queue behind each other
+    private static final double MAX_PROCESS_UTILIZATION = 0.5;
+
+    public LoadTestSettings {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be positive");
+        }
+        if (warmup.isNegative() || warmup.isZero()) {
+            throw new IllegalArgumentException("loadtest.warmupSeconds must be positive");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("loadtest.durationSeconds must be positive");
+        }
+        if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("loadtest.requestTimeoutSeconds must be positive");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix must contain a positive weight");
+        }
+        if (minThroughputRatio < 0 || minThroughputRatio > 1) {
+            throw new IllegalArgumentException("loadtest.slo.minThroughputRatio must be between 0 and 1");
+        }
+        if (maxErrorRatio < 0 || maxErrorRatio > 1) {
+            throw new IllegalArgumentException("loadtest.slo.maxErrorRatio must be between 0 and 1");
+        }
+        if (seedItems < 0) {
+            throw new IllegalArgumentException("loadtest.seedItems must not be negative");
+        }
+        // GET and UPDATE pick a random seeded item, so they need at least one
+        if (seedItems == 0 && (mix.getOrDefault(Operation.GET, 0) > 0
+                || mix.getOrDefault(Operation.UPDATE, 0) > 0)) {
+            throw new IllegalArgumentException("loadtest.seedItems must be positive when GET or UPDATE has weight");
+        }
+        mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+        p99SloMillis = Collections.unmodifiableMap(new EnumMap<>(p99SloMillis));
+        // Fail up front rather than with a PROCESS p99 miss after the whole run
+        if (mix.getOrDefault(Operation.PROCESS, 0) > 0) {
+            int rows = maxRows(seedItems);
+            if (minProcessMillis(rows) > p99SloMillis.get(Operation.PROCESS)) {
+                throw new IllegalArgumentException(String.format(
+                        "loadtest.seedItems too high: one PROCESS call over %d rows takes %d ms, "
+                                + "above loadtest.slo.p99Ms.PROCESS", rows, minProcessMillis(rows)));
+            }
+            double utilization = processUtilization(ratePerSecond, mix, rows);
+            if (utilization > MAX_PROCESS_UTILIZATION) {
+                throw new IllegalArgumentException(String.format(
+                        "loadtest.mix PROCESS share too high: keeps ItemService's pool %.0f%% busy "
+                                + "with %d rows, lower loadtest.rate, the PROCESS weight or loadtest.seedItems",
+                        utilization * 100, rows));
+            }
+        }
+    }
+
+    /**
+     * Builds the settings from system properties, falling back to defaults
+     * sized for a laptop.
+     */
+
+    public static LoadTestSettings fromSystemProperties() {
+        Map<Operation, Long> p99 = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            p99.put(operation, Long.getLong(PREFIX + "slo.p99Ms." + operation.name(),
+                    operation.getDefaultP99Millis()));
+        }
+        return new LoadTestSettings(
+                doubleProperty("rate", 40),
+                Duration.ofSeconds(Long.getLong(PREFIX + "warmupSeconds", 5)),
+                Duration.ofSeconds(Long.getLong(PREFIX + "durationSeconds", 30)),
+                Long.getLong(PREFIX + "seed", 42),
+                Integer.getInteger(PREFIX + "seedItems", 50),
+                parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX)),
+                p99,
+                doubleProperty("slo.minThroughputRatio", 0.95),
+                doubleProperty("slo.maxErrorRatio", 0.001),
+                Duration.ofSeconds(Long.getLong(PREFIX + "requestTimeoutSeconds", 30)),
+                Path.of(System.getProperty(PREFIX + "reportDir", "target/loadtest")));
+    }
+
+    /**
+     * Upper bound of the table size during the run: the seeded items plus
+     * the items created and not yet deleted (see ItemRequestFactory).
+     */
+
+    public int maxRows() {
+        return maxRows(seedItems);
+    }
+
+    /**
+     * Share of ItemService's processing pool kept busy by PROCESS requests
+     * at the largest table size.
+     */
+
+    public double processUtilization() {
+        return processUtilization(ratePerSecond, mix, maxRows());
+    }
+
+    // Static so the compact constructor can use them before fields are assigned
+    private static int maxRows(int seedItems) {
+        return seedItems + ItemRequestFactory.MAX_CREATED_ITEMS;
+    }
+
+    private static double processUtilization(double ratePerSecond, Map<Operation, Integer> mix, int rows) {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        double processPerSecond = ratePerSecond * mix.getOrDefault(Operation.PROCESS, 0) / totalWeight;
+        return processPerSecond * minProcessMillis(rows) / 1000.0;
+    }
+
+    // Time of one PROCESS call on an otherwise idle pool
+    private static long minProcessMillis(int rows) {
+        return (long) Math.ceil((double) rows / PROCESS_THREADS) * PROCESS_MILLIS_PER_ROW;
+    }
+
+    // Parses "GET=60,CREATE=12" into weights, unlisted operations get 0
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative loadtest.mix weight: " + entry);
+            }
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        return mix;
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
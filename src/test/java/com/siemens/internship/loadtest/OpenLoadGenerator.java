@@ -0,0 +1,114 @@
+package com.siemens.internship.loadtest;
+
+import com.siemens.internship.loadtest.ItemRequestFactory.ScheduledRequest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are sent at a fixed arrival rate
+ * regardless of how many are still in flight, and each latency is measured
+ * from the time the request was scheduled to start, not from when it was
+ * actually sent. A slow server therefore shows up as higher latency instead
+ * of silently lowering the request rate (coordinated omission).
+ */
+
+public class OpenLoadGenerator {
+
+    private final HttpClient client;
+    private final ItemRequestFactory requests;
+    private final Random random;
+    private final double ratePerSecond;
+    private final Duration requestTimeout;
+
+    public OpenLoadGenerator(ItemRequestFactory requests, LoadTestSettings settings) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER) // GET by id answers 302
+                .connectTimeout(settings.requestTimeout())
+                .build();
+        this.requests = requests;
+        this.random = new Random(settings.seed());
+        this.ratePerSecond = settings.ratePerSecond();
+        this.requestTimeout = settings.requestTimeout();
+    }
+
+    /**
+     * Drives the server on one continuous schedule over warmup and duration,
+     * so the measured window starts against a server that is already under
+     * load. Only requests scheduled after the warmup are recorded. Waits for
+     * every sent request to complete or time out.
+     */
+
+    public LoadResult run(Duration warmup, Duration duration)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        LoadResult result = new LoadResult(ratePerSecond, duration);
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            // Computed from the index so rounding errors don't accumulate
+            long intendedStart = start + Math.round(i * 1e9 / ratePerSecond);
+            if (intendedStart >= end) {
+                break;
+            }
+            ScheduledRequest next = requests.next(random);
+            Operation operation = next.operation();
+            boolean measured = intendedStart >= measureStart;
+            sleepUntil(intendedStart);
+
+            if (measured) {
+                result.sent(operation);
+            }
+            inFlight.add(next.request()
+                    .thenCompose(request -> client.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                    .handle((response, error) -> {
+                        long now = System.nanoTime();
+                        String failureCause = failureCause(operation, response, error);
+                        next.completed(failureCause == null ? response.body() : null);
+                        if (measured) {
+                            result.record(operation, now - intendedStart, failureCause, now <= end);
+                        }
+                        return null;
+                    }));
+        }
+
+        // Every request has its own timeout, this only guards against a hang
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0]))
+                .get(requestTimeout.toSeconds() + 30, TimeUnit.SECONDS);
+        return result;
+    }
+
+    // Null on success, otherwise the unexpected status or the exception type
+    private static String failureCause(Operation operation, HttpResponse<?> response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            return cause.getClass().getSimpleName();
+        }
+        int status = response.statusCode();
+        return status == operation.getExpectedStatus() ? null : "HTTP " + status;
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Load generator interrupted");
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.siemens.internship.loadtest;
+
+/**
+ * The HTTP operations of ItemController driven by the load test.
+ * Each operation knows the status code the controller answers with on
+ * success and the default p99 latency objective it is held to.
+ */
+
+public enum Operation {
+    LIST(200, 150),      // GET    /api/items
+    GET(302, 100),       // GET    /api/items/{id} (controller answers FOUND)
+    CREATE(201, 150),    // POST   /api/items
+    UPDATE(202, 150),    // PUT    /api/items/{id} (controller answers ACCEPTED)
+    DELETE(200, 150),    // DELETE /api/items/{id}
+    // GET /api/items/process, sleeps 100ms per row on a shared 10 thread pool,
+    // at most 0.7s alone with the default 50 seeded + 20 created rows
+    PROCESS(200, 3000);
+
+    private final int expectedStatus;
+    private final long defaultP99Millis;
+
+    Operation(int expectedStatus, long defaultP99Millis) {
+        this.expectedStatus = expectedStatus;
+        this.defaultP99Millis = defaultP99Millis;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public long getDefaultP99Millis() {
+        return defaultP99Millis;
+    }
+}